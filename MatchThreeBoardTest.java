@@ -332,6 +332,46 @@ public class MatchThreeBoardTest {
         }
     }
 
+    @Test
+    public void tokenStringMirrorLargeAlphabetTest()
+    {
+        // 15 tokens still fit a nibble per cell, 16 and more do not
+        String[][] cases = new String[][]
+        {
+            { "abcdefghijklmno", "abcde;fghij;klmno; a o " },
+            { "abcdefghijklmnop", "abcdefgh;ijklmnop;p  a   p" },
+            { "abcdefghijklmnopq", "abcdefghi;jklmnopq ;q       a" }
+        };
+
+        for (String[] c : cases)
+        {
+            assertEquals(c[1],
+                new MatchThreeBoard(Token.set(c[0]), c[1]).toTokenString());
+        }
+    }
+
+    @Test
+    public void getAndSetAllTokensOfLargeAlphabetTest()
+    {
+        String alphabet = "abcdefghijklmnopq";
+        MatchThreeBoard board = new MatchThreeBoard(Token.set(alphabet),
+            alphabet.length(), 2);
+
+        for (int i = 0; i < alphabet.length(); i++)
+        {
+            board.setTokenAt(Position.at(i, 1), new Token(alphabet.charAt(i)));
+        }
+
+        for (int i = 0; i < alphabet.length(); i++)
+        {
+            assertNull(board.getTokenAt(Position.at(i, 0)));
+            assertEquals(new Token(alphabet.charAt(i)),
+                board.getTokenAt(Position.at(i, 1)));
+        }
+
+        assertEquals("                 ;" + alphabet, board.toTokenString());
+    }
+
     @Test
     public void inferDimensionsTest()
     {
@@ -681,6 +721,31 @@ public class MatchThreeBoardTest {
         assertEquals(expected, changed);
     }
 
+    @Test
+    public void removeThenMoveTokensToBottomTest()
+    {
+        MatchThreeBoard board = new MatchThreeBoard(Token.set("abc"),
+            "abc;bca;cab;abc");
+
+        board.removeTokensAt(new HashSet<Position>(Arrays.asList(
+            Position.at(1, 1), Position.at(1, 2), Position.at(0, 3))));
+        assertEquals("abc;b a;c b; bc", board.toTokenString());
+
+        Set<Position> changed = board.moveTokensToBottom();
+        assertEquals("  c;a a;bbb;cbc", board.toTokenString());
+        assertEquals(new HashSet<Position>(Arrays.asList(Position.at(0, 1),
+            Position.at(0, 2), Position.at(0, 3), Position.at(1, 2))), changed);
+
+        board.removeTokensAt(new HashSet<Position>(Arrays.asList(
+            Position.at(0, 2), Position.at(1, 2), Position.at(2, 2))));
+        changed = board.moveTokensToBottom();
+        assertEquals("   ;  c;a a;cbc", board.toTokenString());
+        assertEquals(new HashSet<Position>(Arrays.asList(Position.at(0, 2),
+            Position.at(2, 1), Position.at(2, 2))), changed);
+
+        assertTrue(board.moveTokensToBottom().isEmpty());
+    }
+
     @Test(timeout=15000)
     public void moveTokensToBottom2Test()
     {
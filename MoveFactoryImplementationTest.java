@@ -5,6 +5,9 @@
  */
 package edu.kit.informatik.matchthree.tests;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -62,6 +65,69 @@ public class MoveFactoryImplementationTest
         assertEquals("dabd;ad b;baaa;dcca", board.toTokenString());
     }
 
+    @Test
+    public void reverseUndoesMoveTest()
+    {
+        MoveFactoryImplementation fact = new MoveFactoryImplementation();
+        String initial = "abcd;badd;c ab;daaa";
+        Move[] moves = new Move[]
+        {
+            fact.flipRight(Position.at(1, 2)),
+            fact.flipDown(Position.at(3, 1)),
+            fact.rotateSquareClockwise(Position.at(1, 1)),
+            fact.rotateColumnDown(2),
+            fact.rotateRowRight(3)
+        };
+
+        for (Move move : moves)
+        {
+            MatchThreeBoard board = new MatchThreeBoard(Token.set("abcd"),
+                initial);
+            move.apply(board);
+            move.reverse().apply(board);
+            assertEquals(initial, board.toTokenString());
+
+            move.reverse().apply(board);
+            move.apply(board);
+            assertEquals(initial, board.toTokenString());
+        }
+    }
+
+    @Test
+    public void composedMovesUndoneInReverseOrderTest()
+    {
+        MoveFactoryImplementation fact = new MoveFactoryImplementation();
+        String initial = "abcd;badd;c ab;daaa";
+        MatchThreeBoard board = new MatchThreeBoard(Token.set("abcd"), initial);
+        Move[] moves = new Move[]
+        {
+            fact.rotateSquareClockwise(Position.at(0, 0)),
+            fact.rotateRowRight(0),
+            fact.flipDown(Position.at(1, 0)),
+            fact.rotateColumnDown(1),
+            fact.flipRight(Position.at(0, 3))
+        };
+
+        for (Move move : moves)
+        {
+            move.apply(board);
+        }
+
+        for (int i = moves.length - 1; i >= 0; i--)
+        {
+            moves[i].reverse().apply(board);
+        }
+
+        assertEquals(initial, board.toTokenString());
+
+        for (int i = 0; i < 4; i++)
+        {
+            fact.rotateSquareClockwise(Position.at(2, 2)).apply(board);
+        }
+
+        assertEquals(initial, board.toTokenString());
+    }
+
     @Test
     public void rotateColumnDownDifferentBoardSizesTest()
     {
@@ -110,6 +176,58 @@ public class MoveFactoryImplementationTest
         assertEquals("ghijk;kghij;ghijk;ghijk;ghijk", board.toTokenString());
     }
 
+    @Test
+    public void rotateFullCycleTest()
+    {
+        MoveFactoryImplementation fact = new MoveFactoryImplementation();
+        String initial = "abcde;bcdea;cdeab";
+        MatchThreeBoard board = new MatchThreeBoard(Token.set("abcde"),
+            initial);
+
+        for (int i = 0; i < 5; i++)
+        {
+            fact.rotateRowRight(1).apply(board);
+        }
+
+        assertEquals(initial, board.toTokenString());
+
+        for (int i = 0; i < 3; i++)
+        {
+            fact.rotateColumnDown(4).apply(board);
+        }
+
+        assertEquals(initial, board.toTokenString());
+    }
+
+    @Test
+    public void accessAfterRotateTest()
+    {
+        MoveFactoryImplementation fact = new MoveFactoryImplementation();
+        MatchThreeBoard board = new MatchThreeBoard(Token.set("abcde"),
+            "abcde;bcdea;cdeab");
+
+        fact.rotateRowRight(1).apply(board);
+        assertEquals(new Token('a'), board.getTokenAt(Position.at(0, 1)));
+        assertEquals(new Token('e'), board.getTokenAt(Position.at(4, 1)));
+
+        board.setTokenAt(Position.at(0, 1), new Token('e'));
+        fact.rotateRowRight(1).reverse().apply(board);
+        assertEquals("abcde;bcdee;cdeab", board.toTokenString());
+
+        fact.rotateColumnDown(0).apply(board);
+        assertEquals(new Token('c'), board.getTokenAt(Position.at(0, 0)));
+        assertEquals(new Token('b'), board.getTokenAt(Position.at(0, 2)));
+
+        board.setTokenAt(Position.at(0, 2), null);
+        Set<Position> changed = board.moveTokensToBottom();
+        assertEquals(" bcde;ccdee;adeab", board.toTokenString());
+
+        Set<Position> expected = new HashSet<Position>();
+        expected.add(Position.at(0, 1));
+        expected.add(Position.at(0, 2));
+        assertEquals(expected, changed);
+    }
+
     @Test
     public void rotateInvalidRowColumnNumberTest()
     {
@@ -123,6 +241,34 @@ public class MoveFactoryImplementationTest
         assertFalse(theMove.canBeApplied(new MatchThreeBoard(
             Token.set("ab"), 20, 20)));
     }
+
+    @Test
+    public void canBeAppliedAtBoardEdgesTest()
+    {
+        MoveFactoryImplementation fact = new MoveFactoryImplementation();
+        MatchThreeBoard board = new MatchThreeBoard(Token.set("ab"), 4, 3);
+
+        assertTrue(fact.flipRight(Position.at(2, 2)).canBeApplied(board));
+        assertFalse(fact.flipRight(Position.at(3, 0)).canBeApplied(board));
+        assertFalse(fact.flipRight(Position.at(-1, 0)).canBeApplied(board));
+
+        assertTrue(fact.flipDown(Position.at(3, 1)).canBeApplied(board));
+        assertFalse(fact.flipDown(Position.at(0, 2)).canBeApplied(board));
+        assertFalse(fact.flipDown(Position.at(0, -1)).canBeApplied(board));
+
+        assertTrue(fact.rotateSquareClockwise(Position.at(2, 1))
+            .canBeApplied(board));
+        assertFalse(fact.rotateSquareClockwise(Position.at(3, 0))
+            .canBeApplied(board));
+        assertFalse(fact.rotateSquareClockwise(Position.at(0, 2))
+            .canBeApplied(board));
+
+        assertTrue(fact.rotateColumnDown(3).canBeApplied(board));
+        assertFalse(fact.rotateColumnDown(4).canBeApplied(board));
+
+        assertTrue(fact.rotateRowRight(2).canBeApplied(board));
+        assertFalse(fact.rotateRowRight(3).canBeApplied(board));
+    }
 }
 
 // vim: set expandtab: